@@ -0,0 +1,42 @@
+// Example : GameAdminServer.java
+// Lists every live Tic-Tac-Toe game to admin clients from published snapshots.
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.List;
+
+public class GameAdminServer implements Runnable {
+    private ServerSocket server; // server socket, null if the listing is disabled
+
+    // set up the admin server on the given port of the local machine only
+    public GameAdminServer(int port) {
+        try {
+            server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException ioException) {
+            // the listing is optional, so keep the game server running without it
+            ioException.printStackTrace();
+        }
+    }
+
+    // answer each admin connection with the list of live games
+    public void run() {
+        if (server == null)
+            return; // the port could not be bound, listing is disabled
+
+        while (!server.isClosed()) {
+            try (Socket connection = server.accept()) {
+                Formatter output = new Formatter(connection.getOutputStream());
+                List<GameSnapshot> games = TicTacToeServer.listGames();
+
+                output.format("%d live game(s)\n", games.size());
+                for (GameSnapshot game : games)
+                    output.format("%s\n", game);
+                output.flush(); // flush output
+            } catch (IOException ioException) {
+                ioException.printStackTrace();
+            }
+        }
+    }
+} // end class GameAdminServer
@@ -0,0 +1,60 @@
+// Example : GameSnapshot.java
+// Immutable, point-in-time view of a TicTacToeServer game for observers.
+public final class GameSnapshot {
+    private static final char EMPTY = '-'; // marker for an unoccupied square
+
+    private final int gameId; // id of the game this snapshot belongs to
+    private final long version; // number of snapshots published before this one
+    private final String board; // nine characters, one per square
+    private final int currentPlayer; // player with the current move
+    private final boolean gameOver; // whether the game has ended
+
+    private GameSnapshot(int gameId, long version, String board, int currentPlayer,
+                         boolean gameOver) {
+        this.gameId = gameId;
+        this.version = version;
+        this.board = board;
+        this.currentPlayer = currentPlayer;
+        this.gameOver = gameOver;
+    }
+
+    // create a snapshot from the server's board, copying the marks
+    static GameSnapshot of(int gameId, long version, String[] board, int currentPlayer,
+                           boolean gameOver) {
+        char[] squares = new char[board.length];
+        for (int i = 0; i < board.length; i++)
+            squares[i] = board[i].isEmpty() ? EMPTY : board[i].charAt(0);
+
+        return new GameSnapshot(gameId, version, new String(squares), currentPlayer,
+                gameOver);
+    }
+
+    public int getGameId() {
+        return gameId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // return the mark at the location, or an empty string if unoccupied
+    public String getMark(int location) {
+        char square = board.charAt(location);
+        return square == EMPTY ? "" : String.valueOf(square);
+    }
+
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // one-line summary used by the admin listing
+    @Override
+    public String toString() {
+        return String.format("game %d v%d board=%s turn=%d over=%b",
+                gameId, version, board, currentPlayer, gameOver);
+    }
+} // end class GameSnapshot
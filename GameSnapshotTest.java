@@ -0,0 +1,90 @@
+// Example : GameSnapshotTest.java
+// Plays a short game against the TicTacToeServer and checks its snapshots.
+import java.net.InetAddress;
+import java.net.Socket;
+import java.io.IOException;
+import java.util.Formatter;
+import java.util.Scanner;
+import javax.swing.JFrame;
+
+public class GameSnapshotTest {
+    private static final long MOVE_TIMEOUT_MILLIS = 5000; // time allowed per move
+
+    public static void main(String args[]) throws IOException, InterruptedException {
+        TicTacToeServer application = new TicTacToeServer();
+        application.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+
+        // list live games to admin clients on a separate port
+        Thread admin = new Thread(new GameAdminServer(12346));
+        admin.setDaemon(true);
+        admin.start();
+
+        new Thread(application::execute).start(); // wait for two players
+
+        Socket playerX = new Socket(InetAddress.getLoopbackAddress(), 12345);
+        Socket playerO = new Socket(InetAddress.getLoopbackAddress(), 12345);
+        Formatter outputX = new Formatter(playerX.getOutputStream());
+        Formatter outputO = new Formatter(playerO.getOutputStream());
+        new Scanner(playerX.getInputStream()).nextLine(); // wait for the X mark
+
+        GameSnapshot snapshot = application.getSnapshot();
+        System.out.println(snapshot);
+        check(snapshot.getVersion() == 0, "new game starts at version 0");
+        check(TicTacToeServer.listGames().size() == 1, "listGames has the game");
+        check(readAdminListing().equals("1 live game(s)"), "admin lists 1 game");
+
+        // X takes the top row while O plays the middle row
+        int[] moves = {0, 3, 1, 4, 2};
+        for (int i = 0; i < moves.length; i++) {
+            Formatter output = i % 2 == 0 ? outputX : outputO;
+            output.format("%d\n", moves[i]); // send the move location
+            output.flush(); // flush output
+
+            // wait for the move to be published before sending the next one
+            long deadline = System.currentTimeMillis() + MOVE_TIMEOUT_MILLIS;
+            while (application.getSnapshot().getVersion() < i + 1) {
+                check(System.currentTimeMillis() < deadline,
+                        "move " + moves[i] + " published in time");
+                Thread.sleep(10);
+            }
+
+            snapshot = application.getSnapshot();
+            System.out.println(snapshot);
+            check(snapshot.getVersion() == i + 1, "version " + (i + 1) + " follows in order");
+            check(snapshot.isGameOver() == (i == moves.length - 1),
+                    "game over only after the last move");
+        }
+
+        for (int i = 0; i < 3; i++)
+            check(snapshot.getMark(i).equals("X"), "X at location " + i);
+        for (int i = 3; i < 5; i++)
+            check(snapshot.getMark(i).equals("O"), "O at location " + i);
+        check(TicTacToeServer.listGames().isEmpty(), "listGames is empty after the win");
+        check(readAdminListing().equals("0 live game(s)"), "admin lists 0 games");
+
+        playerX.close();
+        playerO.close();
+        System.out.println("All checks passed");
+        System.exit(0);
+    } // end main
+
+    // stop with a failure status if the condition does not hold
+    private static void check(boolean condition, String description) {
+        if (!condition) {
+            System.err.println("FAILED: " + description);
+            System.exit(1);
+        }
+    }
+
+    // return the first line an admin client connecting to the listing receives
+    private static String readAdminListing() throws IOException {
+        try (Socket admin = new Socket(InetAddress.getLoopbackAddress(), 12346)) {
+            Scanner input = new Scanner(admin.getInputStream());
+            String header = input.nextLine();
+            System.out.println("admin: " + header);
+            while (input.hasNextLine())
+                System.out.println("admin: " + input.nextLine());
+            return header;
+        }
+    }
+} // end class GameSnapshotTest
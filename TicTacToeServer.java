@@ -3,9 +3,15 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.io.IOException;
 import java.util.Formatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.Condition;
@@ -26,9 +32,14 @@ public class TicTacToeServer extends JFrame {
     private Lock gameLock; // to lock the game for synchronization
     private Condition otherPlayerConnected; // to wait for the other player
     private Condition otherPlayerTurn; // to wait for the other player's turn
-    private boolean gameOver = false;
-    private boolean winnerAnnounced = false;
+    private final int gameId; // identifies this game in the admin listing
+    // latest published state for observers, replaced under gameLock by each move
+    private final AtomicReference<GameSnapshot> snapshot = new AtomicReference<>();
 
+    // latest snapshot of each game that has not finished yet, keyed by game id
+    private static final Map<Integer, AtomicReference<GameSnapshot>> liveGames =
+            new ConcurrentHashMap<>();
+    private static final AtomicInteger nextGameId = new AtomicInteger(1);
 
     // set up tic-tac-toe server and GUI that displays messages
     public TicTacToeServer() {
@@ -48,6 +59,8 @@ public class TicTacToeServer extends JFrame {
             board[i] = new String(""); // create the tic-tac-toe board
         players = new Player[2]; // create an array of players
         currentPlayer = PLAYER_X; // set the current player to the first player
+        gameId = nextGameId.getAndIncrement(); // assign this game its id
+        snapshot.set(GameSnapshot.of(gameId, 0, board, currentPlayer, false));
 
         try {
             server = new ServerSocket(12345, 2); // set up ServerSocket
@@ -66,6 +79,8 @@ public class TicTacToeServer extends JFrame {
 
     // wait for two connections so the game can be played
     public void execute() {
+        liveGames.put(gameId, snapshot); // list the game until it ends
+
         // wait for each client to connect
         for (int i = 0; i < players.length; i++) {
             try // wait for connection, create Player, start runnable
@@ -93,38 +108,77 @@ public class TicTacToeServer extends JFrame {
         SwingUtilities.invokeLater(() -> outputArea.append(messageToDisplay));
     }
 
+    // return the latest published state of the game without locking
+    public GameSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    // return a snapshot of every game that is still in progress
+    public static List<GameSnapshot> listGames() {
+        List<GameSnapshot> games = new ArrayList<>();
+        for (AtomicReference<GameSnapshot> game : liveGames.values())
+            games.add(game.get());
+        return games;
+    }
+
+    // copy the current state into a new snapshot for readers; caller holds gameLock
+    private void publishSnapshot(boolean ended) {
+        snapshot.set(GameSnapshot.of(gameId, snapshot.get().getVersion() + 1,
+                board, currentPlayer, ended));
+
+        if (ended)
+            liveGames.remove(gameId); // a finished game is no longer listed
+    }
+
     // determine if the move is valid
     public boolean validateAndMove(int location, int player) {
-        // while not the current player, must wait for the turn
-        while (player != currentPlayer) {
-            gameLock.lock(); // lock the game to wait for the other player to go
-            try {
-                otherPlayerTurn.await(); // wait for the player's turn
-            } catch (InterruptedException exception) {
-                exception.printStackTrace();
-            } finally {
-                gameLock.unlock(); // unlock the game after waiting
+        gameLock.lock(); // lock the game for the turn check and the move
+        try {
+            // while not the current player, must wait for the turn
+            while (player != currentPlayer && !isGameOver()) {
+                try {
+                    otherPlayerTurn.await(); // wait for the player's turn
+                } catch (InterruptedException exception) {
+                    exception.printStackTrace();
+                }
             }
-        }
 
-        // if the location is not occupied, make a move
-        if (!isOccupied(location)) {
+            // the move is not valid once the game is over or the location is taken
+            if (isGameOver() || isOccupied(location))
+                return false; // notify the player that the move was invalid
+
             board[location] = MARKS[currentPlayer]; // set the move on the board
             currentPlayer = (currentPlayer + 1) % 2; // change the player
+            displayMessage("\nlocation: " + location);
+
+            // make the move visible to observers, ending the game if it decided it
+            boolean ended = hasEnded();
+            publishSnapshot(ended);
+            if (ended)
+                displayResult(MARKS[player]);
 
             // let the new current player know that the move occurred
             players[currentPlayer].otherPlayerMoved(location);
-
-            gameLock.lock(); // lock the game to signal the other player to go
-            try {
-                otherPlayerTurn.signal(); // signal the other player to continue
-            } finally {
-                gameLock.unlock(); // unlock the game after signaling
-            }
+            otherPlayerTurn.signal(); // signal the other player to continue
 
             return true; // notify the player that the move was valid
-        } else // the move was not valid
-            return false; // notify the player that the move was invalid
+        } finally {
+            gameLock.unlock(); // unlock the game after the move
+        }
+    }
+
+    // end the game when a player leaves and wake the other player's thread
+    private void leaveGame(int player) {
+        gameLock.lock();
+        try {
+            if (!isGameOver()) {
+                publishSnapshot(true); // the game stops being listed as live
+                displayMessage("\nPlayer " + MARKS[player] + " left, game over\n");
+            }
+            otherPlayerTurn.signalAll(); // let a waiting player see the game ended
+        } finally {
+            gameLock.unlock();
+        }
     }
 
     // determine whether the location is occupied
@@ -132,29 +186,27 @@ public class TicTacToeServer extends JFrame {
         return !board[location].isEmpty();
     }
 
-    // place code in this method to determine whether the game is over
+    // determine whether the game is over from the published snapshot
     public boolean isGameOver() {
-        boolean winnerX = isWinner(MARKS[PLAYER_X]);
-        boolean winnerO = isWinner(MARKS[PLAYER_O]);
-        boolean boardFull = isBoardFull();
-
-        if ((winnerX || winnerO || boardFull) && !winnerAnnounced) {
-            winnerAnnounced = true;  // Set the flag to true
-            gameOver = true;
-            displayMessage("Game Over!\n");
-            if (winnerX) {
-                displayMessage("Player X wins!\n");
-            } else if (winnerO) {
-                displayMessage("Player O wins!\n");
-            } else {
-                displayMessage("It's a tie!\n");
-            }
-        }
+        return getSnapshot().isGameOver();
+    }
 
-        return gameOver;
+    // display the result once, after the move that ended the game
+    private void displayResult(String mark) {
+        displayMessage("\nGame Over!\n");
+        if (isWinner(mark)) {
+            displayMessage("Player " + mark + " wins!\n");
+        } else {
+            displayMessage("It's a tie!\n");
+        }
     }
 
 
+    // check if either player has won or the board is full
+    private boolean hasEnded() {
+        return isWinner(MARKS[PLAYER_X]) || isWinner(MARKS[PLAYER_O]) || isBoardFull();
+    }
+
     // check if the board is full (a tie)
     private boolean isBoardFull() {
         for (int i = 0; i < 9; i++) {
@@ -266,11 +318,12 @@ public class TicTacToeServer extends JFrame {
 
                     if (input.hasNext()) {
                         location = input.nextInt(); // get the move location
+                    } else {
+                        break; // the client disconnected, leave the game
                     }
 
                     // check for a valid move
-                    if (!isGameOver() && validateAndMove(location, playerNumber)) {
-                        displayMessage("\nlocation: " + location);
+                    if (validateAndMove(location, playerNumber)) {
                         output.format("Valid move.\n"); // notify the client
                         output.flush(); // flush output
                     } else {
@@ -281,6 +334,8 @@ public class TicTacToeServer extends JFrame {
                     }
                 }
             } finally {
+                leaveGame(playerNumber); // a game its player left is over
+
                 try {
                     connection.close(); // close the connection to the client
                 } catch (IOException ioException) {
@@ -7,6 +7,12 @@ public class TicTacToeServerTest {
         TicTacToeServer application = new TicTacToeServer();
         application.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         application.setResizable(false);
+
+        // list live games to admin clients on a separate port
+        Thread admin = new Thread(new GameAdminServer(12346));
+        admin.setDaemon(true);
+        admin.start();
+
         application.execute();
     } // end main
 } // end class TicTacToeServerTest
\ No newline at end of file